@@ -78,7 +78,7 @@ public class CropClassifierApp extends Application {
     	List<CropData> data = CSVLoader.loadFromCSV("C:/Users/abdee/Downloads/archive/Crop_recommendation.csv");
         decisionTreeRoot = tree.buildTree(data);
 
-        List<List<CropData>> folds = splitData(data, 5);
+        List<List<CropData>> folds = Evaluator.splitData(data, 5, new Random());
         StringBuilder results = new StringBuilder();
 
         for (int i = 0; i < 5; i++) {
@@ -109,18 +109,6 @@ public class CropClassifierApp extends Application {
         resultArea.setText("Decision Tree:\n" + treeText + "\n\nResults:\n" + results);
     }
 
-    private List<List<CropData>> splitData(List<CropData> data, int k) {
-        List<List<CropData>> folds = new ArrayList<>();
-        int foldSize = data.size() / k;
-        Collections.shuffle(data);
-        for (int i = 0; i < k; i++) {
-            int start = i * foldSize;
-            int end = Math.min(start + foldSize, data.size());
-            folds.add(new ArrayList<>(data.subList(start, end)));
-        }
-        return folds;
-    }
-
     private void showAlert(String title, String content) {
         Alert alert = new Alert(Alert.AlertType.INFORMATION);
         alert.setTitle(title);
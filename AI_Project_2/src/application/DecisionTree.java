@@ -7,11 +7,24 @@ public class DecisionTree {
 
     private final List<String> features = Arrays.asList("N", "P", "K", "temperature", "humidity", "ph", "rainfall");
 
+    // Stopping limits; the defaults grow the full tree
+    private final int maxDepth;
+    private final int minSamplesSplit;
+
+    public DecisionTree() {
+        this(Integer.MAX_VALUE, 2);
+    }
+
+    public DecisionTree(int maxDepth, int minSamplesSplit) {
+        this.maxDepth = maxDepth;
+        this.minSamplesSplit = minSamplesSplit;
+    }
+
     public Node buildTree(List<CropData> data) {
-        return id3(data, new ArrayList<>(features));
+        return id3(data, new ArrayList<>(features), 0);
     }
 
-    private Node id3(List<CropData> data, List<String> remainingFeatures) {
+    private Node id3(List<CropData> data, List<String> remainingFeatures, int depth) {
         Node node = new Node();
 
         // If all samples have the same label
@@ -27,6 +40,12 @@ public class DecisionTree {
             return node;
         }
 
+        // If depth or sample limit reached, return majority class
+        if (depth >= maxDepth || data.size() < minSamplesSplit) {
+            node.label = majorityClass(data);
+            return node;
+        }
+
         // Choose best feature using information gain
         String bestFeature = chooseBestFeature(data, remainingFeatures);
         node.feature = bestFeature;
@@ -61,7 +80,7 @@ public class DecisionTree {
 
         // Recursively build subtrees
         if (!leftSubset.isEmpty()) {
-            Node leftNode = id3(leftSubset, new ArrayList<>(remainingFeatures));
+            Node leftNode = id3(leftSubset, new ArrayList<>(remainingFeatures), depth + 1);
             node.branches.put(bestFeature + " <= " + threshold, leftNode);
         } else {
             Node leaf = new Node();
@@ -70,7 +89,7 @@ public class DecisionTree {
         }
 
         if (!rightSubset.isEmpty()) {
-            Node rightNode = id3(rightSubset, new ArrayList<>(remainingFeatures));
+            Node rightNode = id3(rightSubset, new ArrayList<>(remainingFeatures), depth + 1);
             node.branches.put(bestFeature + " > " + threshold, rightNode);
         } else {
             Node leaf = new Node();
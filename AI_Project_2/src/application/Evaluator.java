@@ -33,4 +33,17 @@ public class Evaluator {
         }
         return tp + fn == 0 ? 0 : (double) tp / (tp + fn);
     }
+
+    // Shuffles the data in place and cuts it into k equal folds
+    public static List<List<CropData>> splitData(List<CropData> data, int k, Random rand) {
+        List<List<CropData>> folds = new ArrayList<>();
+        int foldSize = data.size() / k;
+        Collections.shuffle(data, rand);
+        for (int i = 0; i < k; i++) {
+            int start = i * foldSize;
+            int end = Math.min(start + foldSize, data.size());
+            folds.add(new ArrayList<>(data.subList(start, end)));
+        }
+        return folds;
+    }
 }
@@ -0,0 +1,77 @@
+package application;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import sweep.SearchSpec;
+import sweep.SweepRunner;
+
+// Command line sweep over the decision tree settings, scored by k-fold cross validation.
+//
+//   ./run-sweep.sh tree tree-sweep.properties    (from the repository root)
+//
+// The scheduler lives in shared/sweep, linked into this project as a source folder.
+//
+// Besides the SearchSpec keys it reads data (CSV path) and folds (default 5).
+// Tunable params: maxDepth, minSamplesSplit (whole numbers, so ranges draw integers). The budget is the number of folds
+// evaluated, so set maxBudget = folds for full k-fold CV. Loss is 1 - mean accuracy.
+public class HyperparameterSweep {
+
+    public static void main(String[] args) throws Exception {
+        if (args.length != 1) {
+            System.out.println("Usage: java application.HyperparameterSweep <spec.properties>");
+            return;
+        }
+
+        SearchSpec spec = SearchSpec.load(args[0], "maxDepth", "minSamplesSplit");
+        int k = Integer.parseInt(spec.property("folds", "5"));
+        if (spec.maxBudget > k) {
+            throw new IllegalArgumentException("maxBudget " + spec.maxBudget + " exceeds folds " + k);
+        }
+        if (spec.maxBudget < k) {
+            System.out.println("Note: final scores use " + spec.maxBudget + " of " + k + " folds (maxBudget < folds).");
+        }
+
+        List<CropData> data = CSVLoader.loadFromCSV(spec.property("data", "Crop_recommendation.csv"));
+        if (data.isEmpty()) {
+            System.out.println("No data loaded, nothing to sweep.");
+            return;
+        }
+
+        // Every configuration is scored on the same folds so results are comparable
+        List<List<CropData>> folds = Evaluator.splitData(new ArrayList<>(data), k, new Random(spec.seed));
+
+        SweepRunner.Trial trial = (params, budget, seed, reporter) -> {
+            DecisionTree tree = new DecisionTree(
+                    params.getOrDefault("maxDepth", (double) Integer.MAX_VALUE).intValue(),
+                    params.getOrDefault("minSamplesSplit", 2.0).intValue());
+
+            double totalError = 0;
+            int evaluated = 0;
+            for (int i = 0; i < budget; i++) {
+                List<CropData> test = folds.get(i);
+                List<CropData> train = new ArrayList<>();
+                for (int j = 0; j < k; j++) if (j != i) train.addAll(folds.get(j));
+
+                Node model = tree.buildTree(train);
+                List<String> predictions = test.stream().map(d -> tree.predict(model, d)).collect(Collectors.toList());
+                List<String> actuals = test.stream().map(d -> d.label).collect(Collectors.toList());
+
+                totalError += 1 - Evaluator.accuracy(predictions, actuals);
+                evaluated++;
+                if (!reporter.report(i + 1, totalError / evaluated)) break;
+            }
+            return totalError / evaluated;
+        };
+
+        long startTime = System.currentTimeMillis();
+        List<SweepRunner.Outcome> best = new SweepRunner(spec, trial).run();
+        long runtimeMillis = System.currentTimeMillis() - startTime;
+
+        System.out.println("Sweep finished in " + runtimeMillis + " ms, results in " + spec.output);
+        for (int i = 0; i < Math.min(5, best.size()); i++) {
+            SweepRunner.Outcome o = best.get(i);
+            System.out.printf("%d. Acc=%.2f%% %s%n", i + 1, (1 - o.loss) * 100, o.params);
+        }
+    }
+}
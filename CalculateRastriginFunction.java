@@ -15,6 +15,7 @@ import java.text.DecimalFormat;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
+import java.util.function.BiPredicate;
 
 public class CalculateRastriginFunction extends Application {
 
@@ -23,6 +24,12 @@ public class CalculateRastriginFunction extends Application {
     final double MIN = -2.0;
     final double MAX = 2.0;
     final int MAX_ITERATIONS = 3000;
+    final int CHECKPOINT_INTERVAL = 100;
+
+    // Default simulated annealing schedule
+    final double INITIAL_TEMP = 1000;
+    final double COOLING_RATE = 0.95;
+    final double STEP_SIZE = 0.1;
 
     // Formatting results
     static DecimalFormat df = new DecimalFormat("0.0000");
@@ -66,8 +73,15 @@ public class CalculateRastriginFunction extends Application {
         stage.show();
     }
 
-    // Optimization logic
+    // Optimization logic with the default annealing schedule
     private OptimizationResult optimize() {
+        return optimize(INITIAL_TEMP, COOLING_RATE, STEP_SIZE, MAX_ITERATIONS, (iteration, score) -> true);
+    }
+
+    // Runs simulated annealing with the given schedule. Every CHECKPOINT_INTERVAL iterations
+    // the checkpoint is asked whether to keep going, which lets a sweep stop hopeless runs early.
+    OptimizationResult optimize(double temp, double coolingRate, double stepSize, int maxIterations,
+                                BiPredicate<Integer, Double> checkpoint) {
         long startTime = System.currentTimeMillis(); // Start timing
 
         double[] current = getRandomSolution(); // Starting point
@@ -76,11 +90,6 @@ public class CalculateRastriginFunction extends Application {
         double[] best = current.clone();
         double bestScore = currentScore;
 
-        // Simulated Annealing parameters
-        double temp = 1000;
-        double coolingRate = 0.95;
-        double stepSize = 0.1;
-
         // Lists to store progress
         List<Double> scoreList = new ArrayList<>();
         List<Double> distanceList = new ArrayList<>();
@@ -91,7 +100,7 @@ public class CalculateRastriginFunction extends Application {
         distanceList.add(distanceToZero(current));
         temperatureList.add(temp);
 
-        for (int i = 1; i <= MAX_ITERATIONS; i++) {
+        for (int i = 1; i <= maxIterations; i++) {
             double[] neighbor = getNeighbor(current, stepSize);
             double neighborScore = evaluate(neighbor);
 
@@ -112,6 +121,10 @@ public class CalculateRastriginFunction extends Application {
             scoreList.add(bestScore);
             distanceList.add(distanceToZero(best));
             temperatureList.add(temp);
+
+            if (i % CHECKPOINT_INTERVAL == 0 && !checkpoint.test(i, bestScore)) {
+                break;
+            }
         }
 
         long endTime = System.currentTimeMillis(); // End timing
@@ -0,0 +1,50 @@
+package finalSol;
+
+import sweep.SearchSpec;
+import sweep.SweepRunner;
+
+import java.util.List;
+import java.util.Random;
+
+// Command line sweep over the simulated annealing schedule of CalculateRastriginFunction.
+// Uses the shared scheduler in shared/sweep; run-sweep.sh compiles both and runs it:
+//
+//   PATH_TO_FX=/path/to/javafx-sdk/lib ./run-sweep.sh annealing annealing-sweep.properties
+//
+// Tunable params: temp, coolingRate, stepSize. The budget is the number of iterations
+// (e.g. minBudget = 300, maxBudget = 3000). Loss is the best Rastrigin score found.
+public class RastriginSweep {
+
+    public static void main(String[] args) throws Exception {
+        if (args.length != 1) {
+            System.out.println("Usage: java finalSol.RastriginSweep <spec.properties>");
+            return;
+        }
+
+        SearchSpec spec = SearchSpec.load(args[0]);
+
+        SweepRunner.Trial trial = (params, budget, seed, reporter) -> {
+            // One optimizer per run, each with its own seeded generator
+            CalculateRastriginFunction optimizer = new CalculateRastriginFunction();
+            optimizer.rand = new Random(seed);
+
+            CalculateRastriginFunction.OptimizationResult result = optimizer.optimize(
+                    params.getOrDefault("temp", optimizer.INITIAL_TEMP),
+                    params.getOrDefault("coolingRate", optimizer.COOLING_RATE),
+                    params.getOrDefault("stepSize", optimizer.STEP_SIZE),
+                    budget,
+                    reporter::report);
+            return result.bestScore;
+        };
+
+        long startTime = System.currentTimeMillis();
+        List<SweepRunner.Outcome> best = new SweepRunner(spec, trial).run();
+        long runtimeMillis = System.currentTimeMillis() - startTime;
+
+        System.out.println("Sweep finished in " + runtimeMillis + " ms, results in " + spec.output);
+        for (int i = 0; i < Math.min(5, best.size()); i++) {
+            SweepRunner.Outcome o = best.get(i);
+            System.out.println((i + 1) + ". Score=" + CalculateRastriginFunction.df.format(o.loss) + " " + o.params);
+        }
+    }
+}
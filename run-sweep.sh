@@ -0,0 +1,50 @@
+#!/bin/sh
+# Compiles and runs a hyperparameter sweep from the command line.
+#
+#   ./run-sweep.sh tree tree-sweep.properties
+#   PATH_TO_FX=/path/to/javafx-sdk/lib ./run-sweep.sh annealing annealing-sweep.properties
+#   ./run-sweep.sh check      (self-check of the scheduler with stub trials)
+#
+# The annealing sweep drives CalculateRastriginFunction, which needs the JavaFX SDK.
+set -e
+
+if [ "$1" != "check" ] && [ $# -ne 2 ]; then
+    echo "Usage: $0 tree|annealing <spec.properties> | check"
+    exit 1
+fi
+
+ROOT=$(cd "$(dirname "$0")" && pwd)
+OUT="$ROOT/build/sweep"
+mkdir -p "$OUT"
+
+case "$1" in
+    check)
+        javac -d "$OUT" "$ROOT"/shared/sweep/*.java
+        java -cp "$OUT" sweep.SweepRunnerCheck
+        ;;
+    tree)
+        javac -d "$OUT" "$ROOT"/shared/sweep/*.java \
+            "$ROOT"/AI_Project_2/src/application/CSVLoader.java \
+            "$ROOT"/AI_Project_2/src/application/CropData.java \
+            "$ROOT"/AI_Project_2/src/application/DecisionTree.java \
+            "$ROOT"/AI_Project_2/src/application/Evaluator.java \
+            "$ROOT"/AI_Project_2/src/application/Node.java \
+            "$ROOT"/AI_Project_2/src/application/HyperparameterSweep.java
+        java -cp "$OUT" application.HyperparameterSweep "$2"
+        ;;
+    annealing)
+        if [ -z "$PATH_TO_FX" ]; then
+            echo "Set PATH_TO_FX to the lib directory of the JavaFX SDK"
+            exit 1
+        fi
+        javac --module-path "$PATH_TO_FX" --add-modules javafx.controls -d "$OUT" \
+            "$ROOT"/shared/sweep/*.java \
+            "$ROOT"/CalculateRastriginFunction.java \
+            "$ROOT"/RastriginSweep.java
+        java --module-path "$PATH_TO_FX" --add-modules javafx.controls -cp "$OUT" finalSol.RastriginSweep "$2"
+        ;;
+    *)
+        echo "Unknown sweep: $1 (expected tree, annealing or check)"
+        exit 1
+        ;;
+esac
@@ -0,0 +1,176 @@
+package sweep;
+
+import java.io.*;
+import java.util.*;
+
+// Search spec for a hyperparameter sweep, loaded from a properties file:
+//
+//   strategy = grid | random | halving
+//   samples = 200            configurations drawn by random / halving (repeats are dropped)
+//   gridSteps = 5            points taken from each range by grid
+//   minBudget = 1            first halving rung budget
+//   maxBudget = 5            full budget (grid / random run only this one), required
+//   eta = 3                  halving keeps the best 1/eta and multiplies the budget by eta
+//   threads = 8
+//   seed = 42
+//   prune = true             grid / random: stop runs that fall behind the median at a checkpoint
+//   pruneReference = 10      runs that set that median (a seeded random draw, never pruned)
+//   output = sweep-results.tsv
+//   param.maxDepth = 2,4,6   list of values
+//   param.coolingRate = 0.9..0.999   uniform range
+//
+// Parameters the trial declares as integers (see load) are rounded: lists are rounded and
+// deduplicated, ranges draw whole numbers from lo..hi inclusive, and grid points are rounded.
+// Any other key is left for the trial to read through property().
+public class SearchSpec {
+
+    public final String strategy;
+    public final int samples;
+    public final int gridSteps;
+    public final int minBudget;
+    public final int maxBudget;
+    public final int eta;
+    public final int threads;
+    public final long seed;
+    public final boolean prune;
+    public final int pruneReference;
+    public final String output;
+
+    // Either a fixed list of values or a [lo, hi] range per parameter
+    private final Map<String, double[]> values = new LinkedHashMap<>();
+    private final Map<String, double[]> ranges = new LinkedHashMap<>();
+    private final Set<String> integers;
+    private final Properties props;
+
+    SearchSpec(Properties props, Set<String> integers) {
+        this.props = props;
+        this.integers = integers;
+        strategy = props.getProperty("strategy", "random").trim();
+        samples = Integer.parseInt(property("samples", "100"));
+        gridSteps = Integer.parseInt(property("gridSteps", "5"));
+        if (props.getProperty("maxBudget") == null) {
+            throw new IllegalArgumentException("Spec must set maxBudget");
+        }
+        maxBudget = Integer.parseInt(props.getProperty("maxBudget").trim());
+        minBudget = Integer.parseInt(property("minBudget", String.valueOf(maxBudget)));
+        eta = Integer.parseInt(property("eta", "3"));
+        threads = Integer.parseInt(property("threads", String.valueOf(Runtime.getRuntime().availableProcessors())));
+        seed = Long.parseLong(property("seed", "42"));
+        prune = Boolean.parseBoolean(property("prune", "true"));
+        pruneReference = Integer.parseInt(property("pruneReference", "10"));
+        output = property("output", "sweep-results.tsv");
+
+        if (!strategy.equals("grid") && !strategy.equals("random") && !strategy.equals("halving")) {
+            throw new IllegalArgumentException("Unknown strategy: " + strategy);
+        }
+        if (minBudget < 1 || minBudget > maxBudget || eta < 2) {
+            throw new IllegalArgumentException("Budgets need 1 <= minBudget <= maxBudget and eta >= 2");
+        }
+        if (pruneReference < 1) {
+            throw new IllegalArgumentException("pruneReference must be at least 1");
+        }
+
+        for (String key : new TreeSet<>(props.stringPropertyNames())) {
+            if (!key.startsWith("param.")) continue;
+            String name = key.substring("param.".length());
+            String value = props.getProperty(key).trim();
+
+            try {
+                if (value.contains("..")) {
+                    String[] parts = value.split("\\.\\.", -1);
+                    if (parts.length != 2 || parts[0].isBlank() || parts[1].isBlank()) {
+                        throw new IllegalArgumentException(key + " must be a range lo..hi, got: " + value);
+                    }
+                    double lo = Double.parseDouble(parts[0].trim()), hi = Double.parseDouble(parts[1].trim());
+                    if (integers.contains(name)) {
+                        lo = Math.ceil(lo);
+                        hi = Math.floor(hi);
+                    }
+                    if (lo > hi) {
+                        throw new IllegalArgumentException(key + " is an empty range: " + value);
+                    }
+                    ranges.put(name, new double[]{lo, hi});
+                } else {
+                    double[] options = Arrays.stream(value.split(",")).mapToDouble(v -> Double.parseDouble(v.trim())).toArray();
+                    values.put(name, integers.contains(name) ? roundDistinct(options) : options);
+                }
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(key + " has a value that is not a number: " + value);
+            }
+        }
+
+        if (values.isEmpty() && ranges.isEmpty()) {
+            throw new IllegalArgumentException("Spec defines no param.* entries");
+        }
+    }
+
+    // integerParams names the parameters the trial reads as whole numbers
+    public static SearchSpec load(String filename, String... integerParams) throws IOException {
+        Properties props = new Properties();
+        try (Reader reader = new FileReader(filename)) {
+            props.load(reader);
+        }
+        return new SearchSpec(props, new HashSet<>(Arrays.asList(integerParams)));
+    }
+
+    public String property(String key, String defaultValue) {
+        return props.getProperty(key, defaultValue).trim();
+    }
+
+    // Builds the configurations to try: the full cartesian product for grid, distinct random draws otherwise
+    public List<Map<String, Double>> configurations() {
+        List<Map<String, Double>> configs = new ArrayList<>();
+
+        if (strategy.equals("grid")) {
+            Map<String, double[]> axes = new LinkedHashMap<>(values);
+            for (Map.Entry<String, double[]> range : ranges.entrySet()) {
+                double lo = range.getValue()[0], hi = range.getValue()[1];
+                double[] points = new double[gridSteps];
+                for (int i = 0; i < gridSteps; i++) {
+                    points[i] = gridSteps == 1 ? lo : lo + i * (hi - lo) / (gridSteps - 1);
+                }
+                axes.put(range.getKey(), integers.contains(range.getKey()) ? roundDistinct(points) : points);
+            }
+            expandGrid(new ArrayList<>(axes.entrySet()), 0, new LinkedHashMap<>(), configs);
+            return configs;
+        }
+
+        Random rand = new Random(seed);
+        for (int i = 0; i < samples; i++) {
+            Map<String, Double> config = new LinkedHashMap<>();
+            for (Map.Entry<String, double[]> list : values.entrySet()) {
+                double[] options = list.getValue();
+                config.put(list.getKey(), options[rand.nextInt(options.length)]);
+            }
+            for (Map.Entry<String, double[]> range : ranges.entrySet()) {
+                double lo = range.getValue()[0], hi = range.getValue()[1];
+                if (integers.contains(range.getKey())) {
+                    config.put(range.getKey(), lo + rand.nextInt((int) (hi - lo) + 1));
+                } else {
+                    config.put(range.getKey(), lo + rand.nextDouble() * (hi - lo));
+                }
+            }
+            configs.add(config);
+        }
+        // Integer and list params can repeat a draw; running the same configuration twice wastes budget
+        return new ArrayList<>(new LinkedHashSet<>(configs));
+    }
+
+    private static double[] roundDistinct(double[] points) {
+        return Arrays.stream(points).map(Math::round).distinct().toArray();
+    }
+
+    private void expandGrid(List<Map.Entry<String, double[]>> axes, int index,
+                            Map<String, Double> current, List<Map<String, Double>> configs) {
+        if (index == axes.size()) {
+            configs.add(new LinkedHashMap<>(current));
+            return;
+        }
+        Map.Entry<String, double[]> axis = axes.get(index);
+        for (double value : axis.getValue()) {
+            current.put(axis.getKey(), value);
+            expandGrid(axes, index + 1, current, configs);
+        }
+        current.remove(axis.getKey());
+    }
+}
@@ -0,0 +1,208 @@
+package sweep;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+// Runs every configuration of a SearchSpec on a bounded work-stealing pool and
+// appends one line per run to the results file. Losses are "lower is better".
+public class SweepRunner {
+
+    public interface Trial {
+        // Runs one configuration for the given budget and returns its final loss.
+        // Should call reporter.report() at checkpoints and stop once it returns false.
+        double run(Map<String, Double> params, int budget, long seed, Reporter reporter);
+    }
+
+    public interface Reporter {
+        boolean report(int step, double loss);
+    }
+
+    public static class Outcome {
+        public final int id;
+        public final Map<String, Double> params;
+        public final int budget;
+        public final String status;
+        public final double loss;
+        public final long runtimeMillis;
+        public final String error;
+
+        Outcome(int id, Map<String, Double> params, int budget, String status, double loss,
+                long runtimeMillis, String error) {
+            this.id = id;
+            this.params = params;
+            this.budget = budget;
+            this.status = status;
+            this.loss = loss;
+            this.runtimeMillis = runtimeMillis;
+            this.error = error;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            sb.append(id).append('\t').append(budget).append('\t').append(status).append('\t')
+                    .append(Double.isNaN(loss) ? "nan" : String.format(Locale.ROOT, "%.6g", loss)).append('\t')
+                    .append(runtimeMillis).append('\t');
+            StringJoiner joiner = new StringJoiner(";");
+            for (Map.Entry<String, Double> p : params.entrySet()) {
+                double v = p.getValue();
+                joiner.add(p.getKey() + "=" + (v == Math.rint(v) && Math.abs(v) < 1e15
+                        ? String.valueOf((long) v) : String.format(Locale.ROOT, "%.6g", v)));
+            }
+            sb.append(joiner).append('\t').append(error == null ? "-" : error.replaceAll("[\\t\\r\\n]+", " "));
+            return sb.toString();
+        }
+    }
+
+    private final SearchSpec spec;
+    private final Trial trial;
+
+    public SweepRunner(SearchSpec spec, Trial trial) {
+        this.spec = spec;
+        this.trial = trial;
+    }
+
+    // Runs the whole sweep and returns the finished runs of the last rung, best first
+    public List<Outcome> run() throws IOException, InterruptedException {
+        List<Map<String, Double>> configs = spec.configurations();
+        ExecutorService pool = Executors.newWorkStealingPool(spec.threads);
+
+        try (PrintWriter out = new PrintWriter(new BufferedWriter(new FileWriter(spec.output)))) {
+            out.println("# strategy=" + spec.strategy + " configs=" + configs.size() + " seed=" + spec.seed);
+            out.println("id\tbudget\tstatus\tloss\tms\tparams\terror");
+
+            List<Integer> alive = new ArrayList<>();
+            for (int i = 0; i < configs.size(); i++) alive.add(i);
+
+            if (!spec.strategy.equals("halving")) {
+                List<Outcome> outcomes = spec.prune && alive.size() > spec.pruneReference
+                        ? runPruned(pool, configs, alive, out)
+                        : runRung(pool, configs, alive, spec.maxBudget, null, null, out);
+                return best(outcomes);
+            }
+
+            // Successive halving: the cut between rungs already drops weak configurations,
+            // so the median rule is not applied here
+            int budget = spec.minBudget;
+            List<Outcome> rung;
+
+            while (true) {
+                rung = runRung(pool, configs, alive, budget, null, null, out);
+                out.flush();
+
+                if (budget >= spec.maxBudget) break;
+
+                List<Outcome> finished = best(rung);
+                int keep = Math.max(1, (int) Math.ceil((double) alive.size() / spec.eta));
+                alive = new ArrayList<>();
+                for (int i = 0; i < Math.min(keep, finished.size()); i++) alive.add(finished.get(i).id);
+                if (alive.isEmpty()) break;
+
+                budget = Math.min(spec.maxBudget, budget * spec.eta);
+            }
+            return best(rung);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    // Median stopping rule. pruneReference configurations, drawn with a shuffle seeded by the
+    // spec, run to the full budget and fix the median loss at each checkpoint; the rest stop
+    // once they fall behind that median. Drawing rather than taking the first ids keeps a grid's
+    // reference set from all sharing the first value of the first axis, and the fixed seed
+    // means the same spec prunes the same runs every time.
+    private List<Outcome> runPruned(ExecutorService pool, List<Map<String, Double>> configs,
+                                    List<Integer> ids, PrintWriter out) throws InterruptedException {
+        ids = new ArrayList<>(ids);
+        Collections.shuffle(ids, new Random(spec.seed));
+
+        Map<Integer, List<Double>> reported = new ConcurrentHashMap<>();
+        List<Outcome> outcomes = runRung(pool, configs, ids.subList(0, spec.pruneReference),
+                spec.maxBudget, null, reported, out);
+        out.flush();
+
+        Map<Integer, Double> medians = new HashMap<>();
+        for (Map.Entry<Integer, List<Double>> step : reported.entrySet()) {
+            double[] sorted = step.getValue().stream().mapToDouble(Double::doubleValue).sorted().toArray();
+            medians.put(step.getKey(), sorted[sorted.length / 2]);
+        }
+
+        outcomes.addAll(runRung(pool, configs, ids.subList(spec.pruneReference, ids.size()),
+                spec.maxBudget, medians, null, out));
+        return outcomes;
+    }
+
+    // medians: checkpoint losses to prune against, or null to never prune.
+    // reported: collects every checkpoint loss, or null when not needed.
+    private List<Outcome> runRung(ExecutorService pool, List<Map<String, Double>> configs, List<Integer> ids,
+                                  int budget, Map<Integer, Double> medians, Map<Integer, List<Double>> reported,
+                                  PrintWriter out) throws InterruptedException {
+        List<Callable<Outcome>> tasks = new ArrayList<>();
+        for (int id : ids) {
+            tasks.add(() -> {
+                Outcome outcome = runOne(id, configs.get(id), budget, medians, reported);
+                synchronized (out) {
+                    out.println(outcome);
+                }
+                return outcome;
+            });
+        }
+
+        List<Outcome> outcomes = new ArrayList<>();
+        for (Future<Outcome> future : pool.invokeAll(tasks)) {
+            try {
+                outcomes.add(future.get());
+            } catch (ExecutionException e) {
+                // runOne turns a RuntimeException from the trial into a failed row, so what
+                // reaches here is an Error such as OutOfMemoryError; rethrow it unchanged
+                Throwable cause = e.getCause();
+                if (cause instanceof Error) throw (Error) cause;
+                if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+                throw new IllegalStateException(cause);
+            }
+        }
+        return outcomes;
+    }
+
+    private Outcome runOne(int id, Map<String, Double> params, int budget,
+                           Map<Integer, Double> medians, Map<Integer, List<Double>> reported) {
+        long startTime = System.currentTimeMillis();
+        boolean[] pruned = {false};
+
+        Reporter reporter = (step, loss) -> {
+            if (reported != null) {
+                reported.computeIfAbsent(step, k -> Collections.synchronizedList(new ArrayList<>())).add(loss);
+            }
+            // A run at its last checkpoint has spent its budget, so stopping it saves nothing
+            if (medians == null || step >= budget) return true;
+
+            Double median = medians.get(step);
+            if (median != null && loss > median) {
+                pruned[0] = true;
+                return false;
+            }
+            return true;
+        };
+
+        try {
+            // Same seed for a configuration on every rung so halving compares like with like
+            double loss = trial.run(params, budget, spec.seed * 31 + id, reporter);
+            String status = pruned[0] ? "pruned" : "done";
+            return new Outcome(id, params, budget, status, loss, System.currentTimeMillis() - startTime, null);
+        } catch (RuntimeException e) {
+            String error = e.getClass().getName() + ": " + e.getMessage();
+            System.err.println("Run " + id + " failed: " + error);
+            return new Outcome(id, params, budget, "failed", Double.NaN, System.currentTimeMillis() - startTime, error);
+        }
+    }
+
+    private static List<Outcome> best(List<Outcome> outcomes) {
+        List<Outcome> finished = new ArrayList<>();
+        for (Outcome o : outcomes) {
+            if (o.status.equals("done")) finished.add(o);
+        }
+        finished.sort(Comparator.comparingDouble(o -> o.loss));
+        return finished;
+    }
+}
@@ -0,0 +1,171 @@
+package sweep;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+
+// Self-check for the sweep scheduler, driven by stub trials whose loss is simply the
+// value of param x. Run with ./run-sweep.sh check; exits with status 1 if a check fails.
+public class SweepRunnerCheck {
+
+    private static int failures = 0;
+
+    public static void main(String[] args) throws Exception {
+        checkHalvingRungs();
+        checkFailedRunsLeaveHalving();
+        checkNoPruningAtLastCheckpoint();
+        checkGridPruningIgnoresOrder();
+        checkIntegerParams();
+
+        if (failures > 0) {
+            System.out.println(failures + " check(s) failed");
+            System.exit(1);
+        }
+        System.out.println("All sweep checks passed");
+    }
+
+    // 10 configs, eta 3, budgets 1..10: rungs of 10, 4, 2, 1 at budgets 1, 3, 9, 10 (capped)
+    private static void checkHalvingRungs() throws Exception {
+        SearchSpec spec = spec("strategy=halving", "samples=10", "minBudget=1", "maxBudget=10", "eta=3",
+                "param.x=0..1");
+        Map<Integer, List<Double>> runs = new TreeMap<>();
+
+        List<SweepRunner.Outcome> best = new SweepRunner(spec, (params, budget, seed, reporter) -> {
+            synchronized (runs) {
+                runs.computeIfAbsent(budget, k -> new ArrayList<>()).add(params.get("x"));
+            }
+            return params.get("x");
+        }).run();
+
+        Map<Integer, Integer> sizes = new TreeMap<>();
+        runs.forEach((budget, xs) -> sizes.put(budget, xs.size()));
+        check(sizes.equals(Map.of(1, 10, 3, 4, 9, 2, 10, 1)), "halving rung sizes " + sizes);
+
+        // Each rung keeps the lowest losses of the one before it
+        List<Double> first = new ArrayList<>(runs.get(1));
+        Collections.sort(first);
+        List<Double> second = new ArrayList<>(runs.get(3));
+        Collections.sort(second);
+        check(second.equals(first.subList(0, 4)), "halving promotes the best configurations");
+        check(best.size() == 1 && best.get(0).params.get("x").equals(first.get(0)), "halving returns the best run");
+    }
+
+    // Failed runs are recorded with their error and never promoted to a later rung
+    private static void checkFailedRunsLeaveHalving() throws Exception {
+        SearchSpec spec = spec("strategy=halving", "samples=10", "minBudget=1", "maxBudget=9", "eta=3",
+                "param.x=0..1");
+        Set<Double> failed = Collections.synchronizedSet(new HashSet<>());
+        Set<Double> promoted = Collections.synchronizedSet(new HashSet<>());
+
+        new SweepRunner(spec, (params, budget, seed, reporter) -> {
+            double x = params.get("x");
+            if (budget > 1) promoted.add(x);
+            if (x < 0.5) {
+                failed.add(x);
+                throw new IllegalStateException("stub failure");
+            }
+            return x;
+        }).run();
+
+        check(!failed.isEmpty(), "stub trial failed some runs");
+        check(Collections.disjoint(failed, promoted), "failed runs are not promoted");
+
+        List<String> rows = Files.readAllLines(Paths.get(spec.output));
+        long failedRows = rows.stream()
+                .filter(r -> r.contains("\tfailed\t") && r.endsWith("java.lang.IllegalStateException: stub failure"))
+                .count();
+        check(failedRows == failed.size(), "failed rows carry the exception");
+    }
+
+    // A run that reports at its last checkpoint has used its budget, so it is always done
+    private static void checkNoPruningAtLastCheckpoint() throws Exception {
+        SweepRunner.Trial trial = (params, budget, seed, reporter) -> {
+            double x = params.get("x");
+            for (int step = 1; step <= budget; step++) {
+                if (!reporter.report(step, x)) break;
+            }
+            return x;
+        };
+
+        SearchSpec single = spec("strategy=random", "samples=20", "maxBudget=1", "pruneReference=5", "param.x=0..1");
+        new SweepRunner(single, trial).run();
+        check(count(single, "pruned") == 0 && count(single, "done") == 20, "no pruning at the last checkpoint");
+
+        SearchSpec longer = spec("strategy=random", "samples=20", "maxBudget=3", "pruneReference=5", "param.x=0..1");
+        new SweepRunner(longer, trial).run();
+        check(count(longer, "pruned") > 0, "runs behind the median are pruned before their last checkpoint");
+    }
+
+    // The reference set is a seeded draw, so listing a grid axis backwards still prunes,
+    // and the same spec prunes the same runs every time
+    private static void checkGridPruningIgnoresOrder() throws Exception {
+        SweepRunner.Trial trial = (params, budget, seed, reporter) -> {
+            double x = params.get("x");
+            for (int step = 1; step <= budget; step++) {
+                if (!reporter.report(step, x)) break;
+            }
+            return x;
+        };
+        String ascending = "param.x=1,2,3,4,5,6,7,8,9,10,11,12,13,14,15,16,17,18,19,20";
+        String descending = "param.x=20,19,18,17,16,15,14,13,12,11,10,9,8,7,6,5,4,3,2,1";
+
+        SearchSpec up = spec("strategy=grid", "maxBudget=2", "pruneReference=5", ascending);
+        new SweepRunner(up, trial).run();
+        SearchSpec down = spec("strategy=grid", "maxBudget=2", "pruneReference=5", descending);
+        new SweepRunner(down, trial).run();
+        check(count(up, "pruned") > 0 && count(down, "pruned") > 0, "grid pruning does not depend on value order");
+
+        List<String> firstRun = statuses(up);
+        new SweepRunner(up, trial).run();
+        check(firstRun.equals(statuses(up)), "the same grid spec prunes the same runs");
+    }
+
+    // Integer params draw whole numbers inclusive of both ends, and repeats are dropped
+    private static void checkIntegerParams() {
+        SearchSpec spec = new SearchSpec(properties("strategy=random", "samples=50", "maxBudget=1", "param.n=1..3"),
+                Set.of("n"));
+        Set<Double> drawn = new TreeSet<>();
+        for (Map<String, Double> config : spec.configurations()) drawn.add(config.get("n"));
+        check(spec.configurations().size() == 3 && drawn.equals(Set.of(1.0, 2.0, 3.0)), "integer range draws " + drawn);
+    }
+
+    private static SearchSpec spec(String... lines) throws IOException {
+        File output = File.createTempFile("sweep-check", ".tsv");
+        output.deleteOnExit();
+        Properties props = properties(lines);
+        props.setProperty("output", output.getPath());
+        props.setProperty("threads", "4");
+        return new SearchSpec(props, Set.of());
+    }
+
+    private static Properties properties(String... lines) {
+        Properties props = new Properties();
+        for (String line : lines) {
+            String[] parts = line.split("=", 2);
+            props.setProperty(parts[0], parts[1]);
+        }
+        return props;
+    }
+
+    private static long count(SearchSpec spec, String status) throws IOException {
+        return Files.readAllLines(Paths.get(spec.output)).stream()
+                .filter(r -> r.contains("\t" + status + "\t"))
+                .count();
+    }
+
+    // "id status" per row, sorted so rows finishing in a different order still compare equal
+    private static List<String> statuses(SearchSpec spec) throws IOException {
+        List<String> rows = new ArrayList<>();
+        for (String row : Files.readAllLines(Paths.get(spec.output))) {
+            String[] cols = row.split("\t");
+            if (cols.length > 2 && !row.startsWith("#") && !cols[0].equals("id")) rows.add(cols[0] + " " + cols[2]);
+        }
+        Collections.sort(rows);
+        return rows;
+    }
+
+    private static void check(boolean ok, String what) {
+        System.out.println((ok ? "ok    " : "FAIL  ") + what);
+        if (!ok) failures++;
+    }
+}